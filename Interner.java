@@ -0,0 +1,156 @@
+package positionallist;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe, size-bounded table that maps equal elements to a single
+ * canonical instance.
+ *
+ * <p>The table holds strong references and never evicts: it retains the first
+ * {@code maxSize} distinct elements it sees for its whole lifetime, even after
+ * every list that used them is gone. Elements first seen after the table is
+ * full are never deduplicated.
+ *
+ * @param <E> The type of elements to canonicalize.
+ */
+public class Interner<E> {
+    private final ConcurrentMap<E, E> table;
+    private final int maxSize;
+    private final AtomicInteger count;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong rejected;
+
+    /**
+     * Constructs an empty interner that holds at most the given number of
+     * distinct elements.
+     *
+     * @param maxSize The maximum number of distinct elements to retain.
+     * @throws IllegalArgumentException if maxSize is not positive.
+     */
+    public Interner(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.table = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.count = new AtomicInteger();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.rejected = new AtomicLong();
+    }
+
+    /**
+     * Returns the canonical instance equal to the given element. An unseen
+     * element becomes canonical if the table has room; once the table is full
+     * it is returned as-is and counted as rejected.
+     *
+     * @param e The element to canonicalize.
+     * @return The canonical instance, or the element itself if it is null or
+     *         the table is full.
+     */
+    public E intern(E e) {
+        if (e == null) {
+            return null;
+        }
+        E canonical = table.get(e);
+        if (canonical != null) {
+            hits.incrementAndGet();
+            return canonical;
+        }
+        if (!reserveSlot()) {
+            rejected.incrementAndGet();
+            return e;
+        }
+        canonical = table.putIfAbsent(e, e);
+        if (canonical != null) {
+            count.decrementAndGet();
+            hits.incrementAndGet();
+            return canonical;
+        }
+        misses.incrementAndGet();
+        return e;
+    }
+
+    /**
+     * Reserves room in the table for one more distinct element.
+     *
+     * @return true if a slot was reserved, false if the table is full.
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            int current = count.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct elements currently retained.
+     *
+     * @return The number of canonical instances in the table.
+     */
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Returns the number of lookups that found an existing canonical instance.
+     *
+     * @return The hit count.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that added a new canonical instance.
+     *
+     * @return The miss count.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of unseen elements turned away because the table was
+     * full.
+     *
+     * @return The rejected count.
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns the fraction of lookups that found an existing canonical instance.
+     *
+     * @return The hit rate between 0 and 1, or 0 if nothing has been interned.
+     */
+    public double hitRate() {
+        long h = hits.get();
+        long total = h + misses.get() + rejected.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Returns the average number of references handed out per canonical
+     * instance retained, i.e. how many elements share each stored instance.
+     *
+     * @return The compression ratio, or 0 if the table is empty.
+     */
+    public double compressionRatio() {
+        int retained = count.get();
+        if (retained == 0) {
+            return 0.0;
+        }
+        return (double) (hits.get() + misses.get()) / retained;
+    }
+}
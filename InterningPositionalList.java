@@ -0,0 +1,59 @@
+package positionallist;
+
+/**
+ * A linked list-based positional list that canonicalizes its elements through
+ * an {@link Interner}, so that equal elements share a single instance.
+ *
+ * @param <E> The type of elements stored in the list.
+ */
+public class InterningPositionalList<E> extends LinkedListPositionalList<E> {
+    private final Interner<E> interner;
+
+    /**
+     * Constructs an empty list that canonicalizes elements through the given
+     * interner, which may be shared between lists.
+     *
+     * @param interner The interner used to canonicalize elements.
+     * @throws IllegalArgumentException if the interner is null.
+     */
+    public InterningPositionalList(Interner<E> interner) {
+        if (interner == null) {
+            throw new IllegalArgumentException("Interner must not be null");
+        }
+        this.interner = interner;
+    }
+
+    /**
+     * Returns the interner used by this list, for inspecting its statistics.
+     *
+     * @return The interner used to canonicalize elements.
+     */
+    public Interner<E> getInterner() {
+        return interner;
+    }
+
+    /**
+     * Adds the canonical instance of an element after a given position.
+     *
+     * @param p The reference position.
+     * @param e The element to add.
+     * @return The position where the new element is added.
+     */
+    @Override
+    public Position<E> addAfter(Position<E> p, E e) {
+        return super.addAfter(p, interner.intern(e));
+    }
+
+    /**
+     * Replaces the element at a given position with the canonical instance of a
+     * new element.
+     *
+     * @param p The position to set the new element.
+     * @param e The new element to set.
+     * @return The old element that was replaced.
+     */
+    @Override
+    public E set(Position<E> p, E e) {
+        return super.set(p, interner.intern(e));
+    }
+}